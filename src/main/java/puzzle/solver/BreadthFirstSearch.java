@@ -64,6 +64,7 @@ public class BreadthFirstSearch {
         private final PuzzleState state;
         @Getter
         private Node parent;
+        @Getter
         private Position.Direction direction;
 
         @Override
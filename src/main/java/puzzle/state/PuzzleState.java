@@ -126,14 +126,10 @@ public class PuzzleState {
     }
 
     private boolean canMoveRight() {
-        // example to use Predicates and catch ArrayIndexOutOfBoundsException
-        try {
-            final Predicate<Position> blackShoePredicate = right -> Objects.equals(positions.get(BLACK_SHOE), right) && !haveEqualPositions(BLOCK, BLUE_SHOE);
-            return blackShoePredicate.or(this::isEmpty)
-                    .test(positions.get(BLOCK).getRight());
-        } catch (final ArrayIndexOutOfBoundsException ignored) {
-            return false;
-        }
+        // example to use Predicates
+        final Predicate<Position> blackShoePredicate = right -> Objects.equals(positions.get(BLACK_SHOE), right) && !haveEqualPositions(BLOCK, BLUE_SHOE);
+        return positions.get(BLOCK).getCol() < BOARD_SIZE - 1 && blackShoePredicate.or(this::isEmpty)
+                .test(positions.get(BLOCK).getRight());
     }
 
     private boolean canMoveDown() {
@@ -0,0 +1,55 @@
+package puzzle.state;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Generates uniformly distributed random valid puzzle states. Each piece is
+ * placed independently on a uniformly chosen cell of the board, and the
+ * blue and the black shoe are drawn again while they share a cell. The
+ * generator enforces this constraint itself rather than relying on the
+ * {@link PuzzleState} constructor, which only checks it when assertions are
+ * enabled, so it must be kept in line with the rules of the constructor.
+ * The same seed always yields the same sequence of states.
+ */
+public class PuzzleStateGenerator {
+
+    private static final int CELL_COUNT = PuzzleState.BOARD_SIZE * PuzzleState.BOARD_SIZE;
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a {@code PuzzleStateGenerator} object using the seed specified.
+     *
+     * @param seed the seed of the underlying pseudorandom number generator
+     */
+    public PuzzleStateGenerator(final long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * {@return the next random valid state}
+     */
+    public PuzzleState next() {
+        while (true) {
+            final var blueShoe = nextPosition();
+            final var blackShoe = nextPosition();
+            if (!blueShoe.equals(blackShoe)) {
+                return new PuzzleState(List.of(nextPosition(), nextPosition(), blueShoe, blackShoe));
+            }
+        }
+    }
+
+    /**
+     * {@return an infinite stream of random valid states}
+     */
+    public Stream<PuzzleState> stream() {
+        return Stream.generate(this::next);
+    }
+
+    private Position nextPosition() {
+        final var cell = random.nextInt(CELL_COUNT);
+        return new Position(cell / PuzzleState.BOARD_SIZE, cell % PuzzleState.BOARD_SIZE);
+    }
+}
@@ -0,0 +1,339 @@
+package puzzle.stress;
+
+import lombok.NonNull;
+import lombok.Value;
+import puzzle.solver.BreadthFirstSearch;
+import puzzle.state.Position;
+import puzzle.state.PuzzleState;
+import puzzle.state.PuzzleStateGenerator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Differential stress harness that cross-checks the move generators and the
+ * solvers against the reference {@link PuzzleState#canMove} and
+ * {@link PuzzleState#move} rules on random valid states.
+ *
+ * <p>Every sample is drawn by a {@link PuzzleStateGenerator} seeded with
+ * {@link #sampleSeed(long, long)}, so a reported disagreement can be
+ * reproduced from its sample seed alone, independently of the number of
+ * threads used.</p>
+ *
+ * <p>Usage: {@code StressHarness [samples [threads [seed]]]}. The JVM must be
+ * started with the {@code -ea} option, since the reference rules rely on
+ * assertions.</p>
+ */
+public class StressHarness {
+
+    /**
+     * The maximum number of disagreements recorded in detail. The report
+     * details the disagreements of the samples with the lowest indices.
+     */
+    public static final int MAX_REPORTED_DISAGREEMENTS = 100;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Map<String, Function<PuzzleState, Set<Position.Direction>>> moveGenerators;
+
+    private final Map<String, Function<PuzzleState, Optional<BreadthFirstSearch.Node>>> solvers;
+
+    private final Map<PuzzleState, OptionalInt> referenceDistances = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code StressHarness} object that checks the move generators
+     * and the solvers specified. The keys of the maps are the names used in
+     * the report, and the implementations are checked in the order of their
+     * names.
+     *
+     * @param moveGenerators the move generators to be checked
+     * @param solvers        the solvers to be checked
+     */
+    public StressHarness(
+            @NonNull final Map<String, Function<PuzzleState, Set<Position.Direction>>> moveGenerators,
+            @NonNull final Map<String, Function<PuzzleState, Optional<BreadthFirstSearch.Node>>> solvers) {
+
+        this.moveGenerators = Collections.unmodifiableSortedMap(new TreeMap<>(moveGenerators));
+        this.solvers = Collections.unmodifiableSortedMap(new TreeMap<>(solvers));
+    }
+
+    /**
+     * {@return a harness that checks the move generators and the solvers
+     * available in the project}
+     */
+    public static StressHarness withDefaults() {
+        return new StressHarness(
+                Map.of("PuzzleState::getLegalMoves", PuzzleState::getLegalMoves),
+                Map.of("BreadthFirstSearch", state -> new BreadthFirstSearch().search(state))
+        );
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (!PuzzleState.class.desiredAssertionStatus()) {
+            System.err.println("Assertions are disabled, run the harness with the -ea JVM option");
+            System.exit(2);
+        }
+        final var samples = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        final var threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final var seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        final var report = withDefaults().run(samples, threads, seed);
+        System.out.println(report);
+        report.getDisagreements().forEach(System.out::println);
+        if (report.getDisagreementCount() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * {@return the seed of the generator that produces the sample specified}
+     *
+     * @param seed  the seed of the run
+     * @param index the index of the sample within the run
+     */
+    public static long sampleSeed(final long seed, final long index) {
+        return new SplittableRandom(seed + index * GOLDEN_GAMMA).nextLong();
+    }
+
+    /**
+     * Checks the number of random states specified using the number of
+     * threads specified.
+     *
+     * @param samples the number of states to be checked
+     * @param threads the number of worker threads
+     * @param seed    the seed of the run
+     * @return the report of the run
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting for the workers
+     */
+    public Report run(
+            final long samples,
+            final int threads,
+            final long seed) throws InterruptedException {
+
+        if (samples < 0 || threads < 1) {
+            throw new IllegalArgumentException();
+        }
+        final var disagreementCount = new LongAdder();
+        final var disagreements = new ArrayList<Disagreement>();
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var start = System.nanoTime();
+        try {
+            // every worker keeps its first disagreements, which include its share of the lowest indices overall
+            final var futures = IntStream.range(0, threads)
+                    .mapToObj(worker -> executor.submit(() -> {
+                        final var found = new ArrayList<Disagreement>();
+                        for (var index = (long) worker; index < samples; index += threads) {
+                            for (final var disagreement : check(seed, index)) {
+                                disagreementCount.increment();
+                                if (found.size() < MAX_REPORTED_DISAGREEMENTS) {
+                                    found.add(disagreement);
+                                }
+                            }
+                        }
+                        return found;
+                    }))
+                    .toList();
+            for (final var future : futures) {
+                disagreements.addAll(future.get());
+            }
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        final var elapsedNanos = System.nanoTime() - start;
+
+        return new Report(samples, threads, seed, elapsedNanos, disagreementCount.sum(),
+                disagreements.stream()
+                        .sorted(Comparator.comparingLong(Disagreement::getIndex))
+                        .limit(MAX_REPORTED_DISAGREEMENTS)
+                        .toList());
+    }
+
+    /**
+     * Checks a single sample of the run.
+     *
+     * @param seed  the seed of the run
+     * @param index the index of the sample within the run
+     * @return the disagreements found
+     */
+    private List<Disagreement> check(
+            final long seed,
+            final long index) {
+
+        final var sampleSeed = sampleSeed(seed, index);
+        final var state = new PuzzleStateGenerator(sampleSeed).next();
+        final var disagreements = new ArrayList<Disagreement>();
+        moveGenerators.forEach((name, moveGenerator) -> {
+            try {
+                checkMoveGenerator(state, moveGenerator)
+                        .ifPresent(message -> disagreements.add(new Disagreement(index, sampleSeed, state, name, message)));
+            } catch (final RuntimeException | AssertionError e) {
+                disagreements.add(new Disagreement(index, sampleSeed, state, name, e.toString()));
+            }
+        });
+        solvers.forEach((name, solver) -> {
+            try {
+                checkSolver(state, solver)
+                        .ifPresent(message -> disagreements.add(new Disagreement(index, sampleSeed, state, name, message)));
+            } catch (final RuntimeException | AssertionError e) {
+                disagreements.add(new Disagreement(index, sampleSeed, state, name, e.toString()));
+            }
+        });
+        return disagreements;
+    }
+
+    /**
+     * Compares the moves returned by a move generator with the moves allowed
+     * by {@link PuzzleState#canMove}, and checks that {@link PuzzleState#move}
+     * carries out each of them.
+     *
+     * @param state         the state to be checked
+     * @param moveGenerator the move generator to be checked
+     * @return the description of the disagreement, if any
+     */
+    private static Optional<String> checkMoveGenerator(
+            @NonNull final PuzzleState state,
+            @NonNull final Function<PuzzleState, Set<Position.Direction>> moveGenerator) {
+
+        final var expected = Arrays.stream(Position.Direction.values())
+                .filter(state::canMove)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Position.Direction.class)));
+        final var actual = moveGenerator.apply(state);
+        if (!expected.equals(actual)) {
+            return Optional.of(String.format("moves %s, canMove allows %s", actual, expected));
+        }
+        for (final var direction : actual) {
+            final var block = state.getPositions().get(PuzzleState.BLOCK).getPositionAt(direction);
+            final var next = state.move(direction);
+            if (next.isEmpty()) {
+                return Optional.of(String.format("move(%s) failed", direction));
+            }
+            if (!next.get().getPositions().get(PuzzleState.BLOCK).equals(block)) {
+                return Optional.of(String.format("move(%s) led to %s", direction, next.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks that the path found by a solver is made up of legal moves, ends
+     * in a goal state and is as short as the reference solution.
+     *
+     * @param state  the state to be checked
+     * @param solver the solver to be checked
+     * @return the description of the disagreement, if any
+     */
+    private Optional<String> checkSolver(
+            @NonNull final PuzzleState state,
+            @NonNull final Function<PuzzleState, Optional<BreadthFirstSearch.Node>> solver) {
+
+        final var expected = referenceDistances.computeIfAbsent(state, StressHarness::referenceDistance);
+        final var actual = solver.apply(state);
+        if (actual.isEmpty() || expected.isEmpty()) {
+            return actual.isEmpty() == expected.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(String.format("solution %s, reference distance %s", actual, expected));
+        }
+        if (!actual.get().getState().isGoal()) {
+            return Optional.of(String.format("path ends in non-goal state %s", actual.get()));
+        }
+        var length = 0;
+        var node = actual.get();
+        for (; node.getParent() != null; node = node.getParent()) {
+            final var parent = node.getParent().getState();
+            if (!parent.canMove(node.getDirection())
+                    || !parent.move(node.getDirection()).equals(Optional.of(node.getState()))) {
+                return Optional.of(String.format("illegal step %s -> %s", parent, node));
+            }
+            length++;
+        }
+        if (!node.getState().equals(state)) {
+            return Optional.of(String.format("path starts in %s", node));
+        }
+        if (length != expected.getAsInt()) {
+            return Optional.of(String.format("path length %d, reference distance %d", length, expected.getAsInt()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the length of the shortest solution by a breadth-first search
+     * that expands states using {@link PuzzleState#canMove} and
+     * {@link PuzzleState#move} only.
+     *
+     * @param start the initial state
+     * @return the length of the shortest solution, or an empty
+     * {@code OptionalInt} if the puzzle cannot be solved
+     */
+    static OptionalInt referenceDistance(@NonNull final PuzzleState start) {
+        final var distances = new HashMap<PuzzleState, Integer>(Map.of(start, 0));
+        final var queue = new ArrayDeque<>(List.of(start));
+        while (!queue.isEmpty()) {
+            final var state = queue.pollFirst();
+            final int distance = distances.get(state);
+            if (state.isGoal()) {
+                return OptionalInt.of(distance);
+            }
+            Arrays.stream(Position.Direction.values())
+                    .filter(state::canMove)
+                    .map(state::move)
+                    .flatMap(Optional::stream)
+                    .filter(next -> distances.putIfAbsent(next, distance + 1) == null)
+                    .forEach(queue::addLast);
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Represents a disagreement between a checked implementation and the
+     * reference rules.
+     */
+    @Value
+    public static class Disagreement {
+        long index;
+        long sampleSeed;
+        PuzzleState state;
+        String implementation;
+        String message;
+
+        @Override
+        public String toString() {
+            return String.format("sample %d (sample seed %d) %s: %s: %s",
+                    index, sampleSeed, state, implementation, message);
+        }
+    }
+
+    /**
+     * Represents the outcome of a run.
+     */
+    @Value
+    public static class Report {
+        long samples;
+        int threads;
+        long seed;
+        long elapsedNanos;
+        long disagreementCount;
+        List<Disagreement> disagreements;
+
+        /**
+         * {@return the number of states checked per second}
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : samples * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d samples, %d threads, seed %d: %.3f s, %.0f states/s, %d disagreements",
+                    samples, threads, seed, elapsedNanos / 1e9, getThroughput(), disagreementCount);
+        }
+    }
+}
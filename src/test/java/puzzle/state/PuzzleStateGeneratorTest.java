@@ -0,0 +1,29 @@
+package puzzle.state;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PuzzleStateGeneratorTest {
+
+    @Test
+    void next_sameSeed() {
+        assertEquals(
+                new PuzzleStateGenerator(42).stream().limit(100).toList(),
+                new PuzzleStateGenerator(42).stream().limit(100).toList());
+    }
+
+    @Test
+    void next_differentSeeds() {
+        assertNotEquals(
+                new PuzzleStateGenerator(42).stream().limit(100).toList(),
+                new PuzzleStateGenerator(43).stream().limit(100).toList());
+    }
+
+    @Test
+    void stream_coversAllValidStates() {
+        // 9 * 9 placements of the block and the red shoe, 9 * 8 placements of the blue and the black shoe
+        assertEquals(5832, new PuzzleStateGenerator(42).stream().limit(200_000).distinct().count());
+    }
+}
@@ -89,4 +89,15 @@ class PuzzleStateTest {
         assertFalse(STATE_4.canMove(Position.Direction.DOWN));
         assertFalse(STATE_4.canMove(Position.Direction.LEFT));
     }
+
+    @Test
+    void canMove_rightEdge() {
+        final var state = new PuzzleState(List.of(
+                new Position(1, 2),
+                new Position(0, 0),
+                new Position(2, 0),
+                new Position(0, 1)));
+        assertFalse(state.canMove(Position.Direction.RIGHT));
+        assertFalse(state.getLegalMoves().contains(Position.Direction.RIGHT));
+    }
 }
@@ -0,0 +1,75 @@
+package puzzle.stress;
+
+import org.junit.jupiter.api.Test;
+import puzzle.state.Position;
+import puzzle.state.PuzzleState;
+import puzzle.state.PuzzleStateGenerator;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StressHarnessTest {
+
+    @Test
+    void run_defaults() throws InterruptedException {
+        final var report = StressHarness.withDefaults().run(2_000, 4, 42);
+        assertEquals(2_000, report.getSamples());
+        assertEquals(0, report.getDisagreementCount(), () -> report.getDisagreements().toString());
+    }
+
+    @Test
+    void run_brokenMoveGenerator() throws InterruptedException {
+        final var harness = new StressHarness(
+                Map.of("all", state -> EnumSet.allOf(Position.Direction.class)),
+                Map.of());
+        final var report = harness.run(1_000, 3, 42);
+        final var singleThreadedReport = harness.run(1_000, 1, 42);
+        assertTrue(report.getDisagreementCount() > StressHarness.MAX_REPORTED_DISAGREEMENTS);
+        assertEquals(StressHarness.MAX_REPORTED_DISAGREEMENTS, report.getDisagreements().size());
+        assertEquals(singleThreadedReport.getDisagreementCount(), report.getDisagreementCount());
+        assertEquals(singleThreadedReport.getDisagreements(), report.getDisagreements());
+
+        final var disagreement = report.getDisagreements().get(0);
+        assertEquals(StressHarness.sampleSeed(42, disagreement.getIndex()), disagreement.getSampleSeed());
+        assertEquals(disagreement.getState(), new PuzzleStateGenerator(disagreement.getSampleSeed()).next());
+    }
+
+    @Test
+    void run_brokenSolver() throws InterruptedException {
+        final var report = new StressHarness(Map.of(), Map.of("none", state -> Optional.empty()))
+                .run(1_000, 2, 42);
+        assertTrue(report.getDisagreementCount() > 0);
+    }
+
+    @Test
+    void run_failingAssertion() throws InterruptedException {
+        final var report = new StressHarness(
+                Map.of("assert", state -> {
+                    throw new AssertionError();
+                }),
+                Map.of())
+                .run(10, 2, 42);
+        assertEquals(10, report.getDisagreementCount());
+    }
+
+    @Test
+    void run_invalidArguments() {
+        final var harness = StressHarness.withDefaults();
+        assertThrows(IllegalArgumentException.class, () -> harness.run(-1, 1, 42));
+        assertThrows(IllegalArgumentException.class, () -> harness.run(1, 0, 42));
+    }
+
+    @Test
+    void referenceDistance() {
+        assertEquals(0, StressHarness.referenceDistance(new PuzzleState(List.of(
+                new Position(1, 1),
+                new Position(1, 1),
+                new Position(1, 1),
+                new Position(1, 2)))).getAsInt());
+        assertTrue(StressHarness.referenceDistance(PuzzleState.DEFAULT_STATE).isPresent());
+    }
+}